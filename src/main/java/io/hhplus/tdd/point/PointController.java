@@ -1,9 +1,12 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.ErrorResponse;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,25 +21,37 @@ public class PointController {
 
     /**
      * 유저 포인트를 조회한다.
+     * If-None-Match 가 현재 ETag 와 같으면 조회 없이 304 를 반환한다.
      * @param id
+     * @param request
      * @return UserPoint
      */
     @GetMapping("{id}")
     public UserPoint point(
-            @PathVariable long id
+            @PathVariable long id,
+            WebRequest request
     ) {
+        if (request.checkNotModified(eTag(id))) {
+            return null;
+        }
         return pointService.getUserPoint(id);
     }
 
     /**
      * 유저 포인트 내역을 조회한다.
+     * If-None-Match 가 현재 ETag 와 같으면 조회 없이 304 를 반환한다.
      * @param id
+     * @param request
      * @return List<PointHistory>
      */
     @GetMapping("{id}/histories")
     public List<PointHistory> history(
-            @PathVariable long id
+            @PathVariable long id,
+            WebRequest request
     ) {
+        if (request.checkNotModified(eTag(id))) {
+            return null;
+        }
         return pointService.getUserPointHistories(id);
     }
 
@@ -44,27 +59,64 @@ public class PointController {
      * 유저의 포인트를 충전한다.
      * @param id
      * @param amount
-     * @return UserPoint
+     * @return UserPoint, 거절 시 400 ErrorResponse
      */
     @PatchMapping("{id}/charge")
-    public UserPoint charge(
+    public ResponseEntity<?> charge(
             @PathVariable long id,
             @RequestBody long amount
     ) {
-        return pointService.chargeUserPoint(id, amount);
+        return toResponse(pointService.chargeUserPoint(id, amount));
     }
 
     /**
      * 유저의 포인트를 사용한다.
      * @param id
      * @param amount
-     * @return UserPoint
+     * @return UserPoint, 거절 시 400 ErrorResponse
      */
     @PatchMapping("{id}/use")
-    public UserPoint use(
+    public ResponseEntity<?> use(
+            @PathVariable long id,
+            @RequestBody long amount
+    ) {
+        return toResponse(pointService.useUserPoint(id, amount));
+    }
+
+    /**
+     * 유저의 포인트를 다른 유저에게 이체한다.
+     * @param id
+     * @param targetId
+     * @param amount
+     * @return UserPoint, 거절 시 400 ErrorResponse
+     */
+    @PatchMapping("{id}/transfer/{targetId}")
+    public ResponseEntity<?> transfer(
             @PathVariable long id,
+            @PathVariable long targetId,
             @RequestBody long amount
     ) {
-        return pointService.useUserPoint(id, amount);
+        return toResponse(pointService.transferUserPoint(id, targetId, amount));
+    }
+
+    /**
+     * 유저의 포인트/내역 ETag 를 만든다. 데이터 조회보다 먼저 호출해야 한다.
+     * @param id
+     * @return ETag
+     */
+    private String eTag(long id) {
+        return "\"" + pointService.getUserETag(id) + "\"";
+    }
+
+    /**
+     * 처리 결과를 응답으로 변환한다. 거절된 요청은 예외 없이 400 으로 응답한다.
+     * @param result
+     * @return ResponseEntity
+     */
+    private ResponseEntity<?> toResponse(PointResult result) {
+        if (!result.isSuccess()) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("400", result.validationResult().message()));
+        }
+        return ResponseEntity.ok(result.userPoint());
     }
 }
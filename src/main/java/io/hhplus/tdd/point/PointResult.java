@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 충전/사용/이체 처리 결과
+ * - 성공 시 갱신된 UserPoint 를, 거절 시 거절 사유를 담습니다.
+ * - 거절 결과는 사유별로 미리 생성해 두고 재사용합니다.
+ * - 잘못된 조합은 요청 오류(400)가 아닌 프로그래밍 오류이므로 IllegalStateException 을 던집니다.
+ */
+public record PointResult(
+        UserPoint userPoint,
+        PointValidationResult validationResult
+) {
+
+    public PointResult {
+        if (validationResult.isValid() != (userPoint != null)) {
+            throw new IllegalStateException("성공 결과에만 UserPoint 가 있어야 합니다.");
+        }
+    }
+
+    private static final PointResult[] REJECTED = new PointResult[PointValidationResult.values().length];
+
+    static {
+        for (PointValidationResult result : PointValidationResult.values()) {
+            if (!result.isValid()) {
+                REJECTED[result.ordinal()] = new PointResult(null, result);
+            }
+        }
+    }
+
+    public static PointResult success(UserPoint userPoint) {
+        return new PointResult(userPoint, PointValidationResult.VALID);
+    }
+
+    public static PointResult rejected(PointValidationResult validationResult) {
+        if (validationResult.isValid()) {
+            throw new IllegalStateException("유효한 검사 결과로는 거절 결과를 만들 수 없습니다.");
+        }
+        return REJECTED[validationResult.ordinal()];
+    }
+
+    public boolean isSuccess() {
+        return validationResult.isValid();
+    }
+}
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -17,9 +18,14 @@ import java.util.concurrent.locks.ReentrantLock;
 public class PointService {
     private final UserPointTable userPointTable;
     private final PointHistoryTable pointHistoryTable;
+    // 사용자별 Lock, 상호 배제를 보장하려면 사용자당 하나의 Lock 만 존재해야 하므로 맵에서 제거하지 않습니다.
     private final ConcurrentHashMap<Long, Lock> userLocks = new ConcurrentHashMap<>();
     private final PointValidator pointValidator;  // Validator 의존성 추가
     private final ConcurrentHashMap<Long, AtomicLong> userPoints = new ConcurrentHashMap<>();
+    // 사용자별 포인트/내역 버전, 재시작 후에는 버전이 다시 사용될 수 있으므로 ETag 에는 실행 식별자를 함께 담습니다.
+    private final String bootId = UUID.randomUUID().toString();
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final ConcurrentHashMap<Long, Long> userVersions = new ConcurrentHashMap<>();
 
     /**
      * 사용자의 포인트 정보를 조회합니다.
@@ -39,14 +45,40 @@ public class PointService {
         return pointHistoryTable.selectAllByUserId(userId);
     }
 
+    /**
+     * 사용자의 포인트/내역 버전을 조회합니다. 포인트가 변경될 때마다 증가합니다.
+     * @param userId
+     * @return 버전
+     */
+    public long getUserVersion(final long userId) {
+        return userVersions.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * 사용자의 포인트/내역 ETag 값을 조회합니다. 실행 식별자와 버전으로 구성되어 재시작 전의 값과 겹치지 않습니다.
+     * @param userId
+     * @return 실행 식별자-버전
+     */
+    public String getUserETag(final long userId) {
+        return bootId + "-" + getUserVersion(userId);
+    }
+
+    /**
+     * 사용자의 포인트를 메모리에 미리 적재합니다. 이미 적재된 사용자는 다시 조회하지 않습니다.
+     * @param userId
+     */
+    public void preloadUserPoint(final long userId) {
+        loadUserPoints(userId);
+    }
+
     /**
      * 사용자의 포인트를 충전합니다.
      * @param userId
      * @param amount
-     * @return UserPoint
+     * @return 충전 결과 (거절 시 거절 사유)
      */
-    public UserPoint chargeUserPoint(final long userId, final long amount) {
-        AtomicLong atomicUserPoints = userPoints.computeIfAbsent(userId, k -> new AtomicLong(getUserPoint(userId).point()));
+    public PointResult chargeUserPoint(final long userId, final long amount) {
+        AtomicLong atomicUserPoints = loadUserPoints(userId);
 
         Lock lock = userLocks.computeIfAbsent(userId, k -> new ReentrantLock());
         boolean lockAcquired = false;
@@ -61,20 +93,23 @@ public class PointService {
             long currentPoint = atomicUserPoints.get();
             UserPoint userPoint = new UserPoint(userId, currentPoint, System.currentTimeMillis());
 
-            pointValidator.validate(userPoint, amount, TransactionType.CHARGE);
+            PointValidationResult validationResult = pointValidator.validate(userPoint, amount, TransactionType.CHARGE);
+            if (!validationResult.isValid()) {
+                return PointResult.rejected(validationResult);
+            }
 
             long newPointAmount = atomicUserPoints.addAndGet(amount);
             UserPoint updatedUserPoint = updateUserPoint(userId, newPointAmount);
             recordPointHistory(userId, amount);
+            increaseUserVersion(userId);
 
-            return updatedUserPoint;
+            return PointResult.success(updatedUserPoint);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt(); // 인터럽트 상태 복원
             throw new RuntimeException("Lock 획득 대기 중 인터럽트가 발생했습니다.", e);
         } finally {
             if(lockAcquired) {
                 lock.unlock();
-                userLocks.remove(userId, lock);
             }
         }
     }
@@ -83,10 +118,10 @@ public class PointService {
      * 사용자의 포인트를 사용합니다.
      * @param userId
      * @param amount
-     * @return UserPoint
+     * @return 사용 결과 (거절 시 거절 사유)
      */
-    public UserPoint useUserPoint(final long userId, final long amount) {
-        AtomicLong atomicUserPoints = userPoints.computeIfAbsent(userId, k -> new AtomicLong(getUserPoint(userId).point()));
+    public PointResult useUserPoint(final long userId, final long amount) {
+        AtomicLong atomicUserPoints = loadUserPoints(userId);
 
         Lock lock = userLocks.computeIfAbsent(userId, k -> new ReentrantLock());
         boolean lockAcquired = false;
@@ -100,25 +135,127 @@ public class PointService {
 
             long currentPoint = atomicUserPoints.get();
 
-            // 유효성 검사, 실패 시 예외 발생
-            pointValidator.validate(new UserPoint(userId, currentPoint, System.currentTimeMillis()), amount, TransactionType.USE);
+            // 유효성 검사, 실패 시 거절 사유 반환
+            PointValidationResult validationResult = pointValidator.validate(new UserPoint(userId, currentPoint, System.currentTimeMillis()), amount, TransactionType.USE);
+            if (!validationResult.isValid()) {
+                return PointResult.rejected(validationResult);
+            }
 
             long newPointAmount = atomicUserPoints.addAndGet(-amount);
             UserPoint updatedUserPoint = updateUserPoint(userId, newPointAmount);
             pointHistoryTable.insert(userId, amount, TransactionType.USE, System.currentTimeMillis());
+            increaseUserVersion(userId);
 
-            return updatedUserPoint;
+            return PointResult.success(updatedUserPoint);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt(); // 인터럽트 상태 복원
             throw new RuntimeException("Lock 획득 대기 중 인터럽트가 발생했습니다.", e);
         } finally {
             if (lockAcquired) {
                 lock.unlock();
-                userLocks.remove(userId);
             }
         }
     }
 
+    /**
+     * 사용자 간 포인트를 이체합니다.
+     * 두 사용자의 Lock 을 userId 오름차순으로 획득하여 A→B, B→A 이체가 동시에 실행되어도 교착 상태가 발생하지 않습니다.
+     * @param fromUserId 포인트를 보내는 사용자
+     * @param toUserId   포인트를 받는 사용자
+     * @param amount
+     * @return 이체 결과, 성공 시 보내는 사용자의 UserPoint (거절 시 거절 사유)
+     */
+    public PointResult transferUserPoint(final long fromUserId, final long toUserId, final long amount) {
+        if (fromUserId == toUserId) {
+            return PointResult.rejected(PointValidationResult.SELF_TRANSFER);
+        }
+        if (amount <= 0) {
+            return PointResult.rejected(PointValidationResult.INVALID_TRANSFER_AMOUNT);
+        }
+
+        AtomicLong fromUserPoints = loadUserPoints(fromUserId);
+        AtomicLong toUserPoints = loadUserPoints(toUserId);
+
+        // 전역 순서(userId 오름차순)로 Lock 을 획득합니다.
+        long firstUserId = Math.min(fromUserId, toUserId);
+        long secondUserId = Math.max(fromUserId, toUserId);
+        Lock firstLock = userLocks.computeIfAbsent(firstUserId, k -> new ReentrantLock());
+        Lock secondLock = userLocks.computeIfAbsent(secondUserId, k -> new ReentrantLock());
+        boolean firstLockAcquired = false;
+        boolean secondLockAcquired = false;
+
+        try {
+            firstLockAcquired = firstLock.tryLock(10, TimeUnit.SECONDS);
+            if (firstLockAcquired) {
+                secondLockAcquired = secondLock.tryLock(10, TimeUnit.SECONDS);
+            }
+
+            if (!firstLockAcquired || !secondLockAcquired) {
+                throw new RuntimeException("Lock을 획득할 수 없습니다. 포인트 이체 요청을 처리할 수 없습니다.");
+            }
+
+            long currentPoint = fromUserPoints.get();
+
+            // 보내는 사용자의 잔액 검사, 실패 시 거절 사유 반환
+            PointValidationResult validationResult = pointValidator.validate(new UserPoint(fromUserId, currentPoint, System.currentTimeMillis()), amount, TransactionType.USE);
+            if (!validationResult.isValid()) {
+                return PointResult.rejected(validationResult);
+            }
+
+            // 두 사용자의 잔액과 내역을 Lock 을 보유한 상태에서 함께 기록합니다.
+            long newFromPointAmount = fromUserPoints.addAndGet(-amount);
+            long newToPointAmount = toUserPoints.addAndGet(amount);
+            UserPoint updatedFromUserPoint = updateUserPoint(fromUserId, newFromPointAmount);
+            updateUserPoint(toUserId, newToPointAmount);
+
+            // 출금/입금 내역은 같은 시각으로 기록하여 한 건의 이체임을 알 수 있도록 합니다.
+            long transferMillis = System.currentTimeMillis();
+            pointHistoryTable.insert(fromUserId, amount, TransactionType.TRANSFER_OUT, transferMillis);
+            pointHistoryTable.insert(toUserId, amount, TransactionType.TRANSFER_IN, transferMillis);
+            increaseUserVersion(fromUserId);
+            increaseUserVersion(toUserId);
+
+            return PointResult.success(updatedFromUserPoint);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // 인터럽트 상태 복원
+            throw new RuntimeException("Lock 획득 대기 중 인터럽트가 발생했습니다.", e);
+        } finally {
+            // 획득의 역순으로 해제합니다.
+            if (secondLockAcquired) {
+                secondLock.unlock();
+            }
+            if (firstLockAcquired) {
+                firstLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 메모리에 적재된 사용자 포인트를 반환하고, 없으면 테이블에서 조회하여 적재합니다.
+     * 조회는 computeIfAbsent 밖에서 수행하여 느린 조회가 같은 bin 의 다른 사용자를 막지 않도록 합니다.
+     * 동시에 적재된 경우 먼저 등록된 값을 사용합니다.
+     * @param userId
+     * @return AtomicLong
+     */
+    private AtomicLong loadUserPoints(long userId) {
+        AtomicLong cachedUserPoints = userPoints.get(userId);
+        if (cachedUserPoints != null) {
+            return cachedUserPoints;
+        }
+
+        AtomicLong loadedUserPoints = new AtomicLong(getUserPoint(userId).point());
+        AtomicLong existingUserPoints = userPoints.putIfAbsent(userId, loadedUserPoints);
+        return existingUserPoints != null ? existingUserPoints : loadedUserPoints;
+    }
+
+    /**
+     * 사용자의 포인트/내역 버전을 증가시킵니다. 사용자 Lock 을 보유한 상태에서 호출합니다.
+     * @param userId
+     */
+    private void increaseUserVersion(long userId) {
+        userVersions.put(userId, versionSequence.incrementAndGet());
+    }
+
     /**
      * 포인트 충전 내역을 기록하는 synchronized 메서드입니다.
      * @param userId
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 충전/사용 유효성 검사 결과
+ * - 예외 대신 미리 생성된 상수를 반환하므로 거절 시 스택 트레이스 생성 비용이 없습니다.
+ */
+public enum PointValidationResult {
+    VALID(null),
+    INVALID_CHARGE_AMOUNT("충전 금액은 0보다 커야 합니다."),
+    INVALID_USE_AMOUNT("사용 금액은 0보다 커야 합니다."),
+    INVALID_TRANSFER_AMOUNT("이체 금액은 0보다 커야 합니다."),
+    INSUFFICIENT_BALANCE("잔액이 부족합니다."),
+    SELF_TRANSFER("자기 자신에게는 포인트를 이체할 수 없습니다.");
+
+    private final String message;
+
+    PointValidationResult(String message) {
+        this.message = message;
+    }
+
+    public boolean isValid() {
+        return this == VALID;
+    }
+
+    public String message() {
+        return message;
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 시작 시 포인트를 미리 적재할 사용자 설정
+ * - userIds : 미리 적재할 사용자 ID 목록
+ * - parallelism : 동시에 조회할 스레드 수
+ */
+@ConfigurationProperties(prefix = "point.warm-up")
+public record PointWarmUpProperties(
+        List<Long> userIds,
+        int parallelism
+) {
+
+    public PointWarmUpProperties {
+        userIds = userIds == null ? List.of() : List.copyOf(userIds);
+        parallelism = parallelism <= 0 ? 1 : parallelism;
+    }
+}
@@ -0,0 +1,62 @@
+package io.hhplus.tdd.point;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 설정된 사용자의 포인트를 병렬로 미리 적재합니다.
+ * ApplicationRunner 는 내장 서버가 요청을 받기 시작한 뒤에 실행되므로 적재 중에도 요청이 들어올 수 있으며,
+ * 애플리케이션은 적재가 끝난 뒤에 준비 완료(ApplicationReadyEvent) 상태가 됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PointWarmUpProperties.class)
+public class PointWarmUpRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWarmUpRunner.class);
+
+    private final PointService pointService;
+    private final PointWarmUpProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        List<Long> userIds = properties.userIds();
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(properties.parallelism(), userIds.size()));
+        try {
+            List<Future<?>> futures = userIds.stream()
+                    .<Future<?>>map(userId -> executorService.submit(() -> pointService.preloadUserPoint(userId)))
+                    .toList();
+
+            int successCount = 0;
+            int failureCount = 0;
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                    successCount++;
+                } catch (ExecutionException e) {
+                    // 적재에 실패한 사용자는 첫 요청 시 다시 조회되므로 시작을 막지 않습니다.
+                    failureCount++;
+                    log.warn("포인트 미리 적재에 실패했습니다. userId={}", userIds.get(i), e.getCause());
+                }
+            }
+            log.info("포인트 미리 적재를 완료했습니다. 성공={}, 실패={}", successCount, failureCount);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
@@ -5,7 +5,9 @@ package io.hhplus.tdd.point;
  * 포인트 트랜잭션 종류
  * - CHARGE : 충전
  * - USE : 사용
+ * - TRANSFER_OUT : 이체 출금 (보내는 사용자)
+ * - TRANSFER_IN : 이체 입금 (받는 사용자)
  */
 public enum TransactionType {
-    CHARGE, USE
+    CHARGE, USE, TRANSFER_OUT, TRANSFER_IN
 }
\ No newline at end of file
@@ -11,9 +11,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -86,6 +89,7 @@ public class PointServiceTest {
             long updatedPoints = invocation.getArgument(1);
             return new UserPoint(userId, updatedPoints, System.currentTimeMillis());
         });
+        when(pointValidator.validate(any(UserPoint.class), anyLong(), any(TransactionType.class))).thenReturn(PointValidationResult.VALID);
 
         // 동시성 테스트를 위한 스레드 풀 및 CountDownLatch
         int threadCount = 10;
@@ -127,9 +131,10 @@ public class PointServiceTest {
         given(userPointTable.selectById(userId)).willReturn(existingUserPoint);
         // 포인트 충전 후 포인트 150점으로 업데이트
         given(userPointTable.insertOrUpdate(eq(userId), eq(150L))).willReturn(updatedUserPoint);
+        given(pointValidator.validate(any(UserPoint.class), anyLong(), any(TransactionType.class))).willReturn(PointValidationResult.VALID);
 
         // when
-        UserPoint result = pointService.chargeUserPoint(userId, amountToCharge);
+        UserPoint result = pointService.chargeUserPoint(userId, amountToCharge).userPoint();
 
         // then
         assertThat(result).isEqualTo(updatedUserPoint);
@@ -146,7 +151,7 @@ public class PointServiceTest {
     }
 
     @Test
-    @DisplayName("포인트 사용 시 잔액이 부족하면 예외가 발생한다.")
+    @DisplayName("포인트 사용 시 잔액이 부족하면 거절된다.")
     void shouldFailIfInsufficientBalanceWhenUsingPoints() {
         long userId = 1L;
         long initialAmount = 100L;
@@ -158,16 +163,17 @@ public class PointServiceTest {
 
         ArgumentCaptor<UserPoint> userPointCaptor = ArgumentCaptor.forClass(UserPoint.class);
 
-        doThrow(new IllegalArgumentException("잔액이 부족합니다."))
-                .when(pointValidator)
-                .validate(userPointCaptor.capture(), eq(amountToUse), eq(TransactionType.USE));
+        given(pointValidator.validate(userPointCaptor.capture(), eq(amountToUse), eq(TransactionType.USE)))
+                .willReturn(PointValidationResult.INSUFFICIENT_BALANCE);
 
-        // when, then
-        try {
-            pointService.useUserPoint(userId, amountToUse);
-        } catch (IllegalArgumentException e) {
-            assertThat(e.getMessage()).isEqualTo("잔액이 부족합니다.");
-        }
+        // when
+        PointResult result = pointService.useUserPoint(userId, amountToUse);
+
+        // then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.validationResult().message()).isEqualTo("잔액이 부족합니다.");
+        then(userPointTable).should(never()).insertOrUpdate(anyLong(), anyLong());
+        then(pointHistoryTable).shouldHaveNoInteractions();
 
         // 캡처된 UserPoint 객체를 검증합니다.
         UserPoint capturedUserPoint = userPointCaptor.getValue();
@@ -189,6 +195,7 @@ public class PointServiceTest {
             long updatedPoints = invocation.getArgument(1);
             return new UserPoint(userId, updatedPoints, System.currentTimeMillis());
         });
+        when(pointValidator.validate(any(UserPoint.class), anyLong(), any(TransactionType.class))).thenReturn(PointValidationResult.VALID);
 
         // 동시성 테스트를 위한 스레드 풀 및 CountDownLatch
         int threadCount = 10;
@@ -231,6 +238,7 @@ public class PointServiceTest {
             long updatedPoints = invocation.getArgument(1);
             return new UserPoint(userId, updatedPoints, System.currentTimeMillis());
         });
+        when(pointValidator.validate(any(UserPoint.class), anyLong(), any(TransactionType.class))).thenReturn(PointValidationResult.VALID);
 
         // 동시성 테스트를 위한 스레드 풀 및 CountDownLatch
         int threadCount = 10;  // 총 스레드 개수 (충전 + 사용)
@@ -268,4 +276,235 @@ public class PointServiceTest {
         verify(userPointTable, atLeast(1)).insertOrUpdate(eq(userId), eq(expectedPoints));
     }
 
+    @Test
+    @DisplayName("포인트 이체 시 보내는 사용자는 차감되고 받는 사용자는 충전된다.")
+    void shouldTransferUserPointSuccessfully() {
+        // given
+        long fromUserId = 1L;
+        long toUserId = 2L;
+        long amountToTransfer = 30L;
+
+        given(userPointTable.selectById(fromUserId)).willReturn(new UserPoint(fromUserId, 100L, System.currentTimeMillis()));
+        given(userPointTable.selectById(toUserId)).willReturn(new UserPoint(toUserId, 50L, System.currentTimeMillis()));
+        given(userPointTable.insertOrUpdate(anyLong(), anyLong())).willAnswer(invocation -> {
+            long updatedUserId = invocation.getArgument(0);
+            long updatedPoints = invocation.getArgument(1);
+            return new UserPoint(updatedUserId, updatedPoints, System.currentTimeMillis());
+        });
+        given(pointValidator.validate(any(UserPoint.class), anyLong(), any(TransactionType.class))).willReturn(PointValidationResult.VALID);
+
+        // when
+        UserPoint result = pointService.transferUserPoint(fromUserId, toUserId, amountToTransfer).userPoint();
+
+        // then
+        assertThat(result.point()).isEqualTo(70L);
+        then(pointValidator).should().validate(any(UserPoint.class), eq(amountToTransfer), eq(TransactionType.USE));
+        then(userPointTable).should().insertOrUpdate(eq(fromUserId), eq(70L));
+        then(userPointTable).should().insertOrUpdate(eq(toUserId), eq(80L));
+        ArgumentCaptor<Long> outMillisCaptor = ArgumentCaptor.forClass(Long.class);
+        ArgumentCaptor<Long> inMillisCaptor = ArgumentCaptor.forClass(Long.class);
+        then(pointHistoryTable).should().insert(eq(fromUserId), eq(amountToTransfer), eq(TransactionType.TRANSFER_OUT), outMillisCaptor.capture());
+        then(pointHistoryTable).should().insert(eq(toUserId), eq(amountToTransfer), eq(TransactionType.TRANSFER_IN), inMillisCaptor.capture());
+        assertThat(outMillisCaptor.getValue()).isEqualTo(inMillisCaptor.getValue());
+    }
+
+    @Test
+    @DisplayName("자기 자신에게 포인트를 이체하면 거절된다.")
+    void shouldFailWhenTransferringToSelf() {
+        // when
+        PointResult result = pointService.transferUserPoint(1L, 1L, 10L);
+
+        // then
+        assertThat(result.validationResult()).isEqualTo(PointValidationResult.SELF_TRANSFER);
+        then(userPointTable).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("이체 금액이 0 이하이면 이체 사유로 거절된다.")
+    void shouldFailWhenTransferAmountIsNotPositive() {
+        // when
+        PointResult result = pointService.transferUserPoint(1L, 2L, 0L);
+
+        // then
+        assertThat(result.validationResult()).isEqualTo(PointValidationResult.INVALID_TRANSFER_AMOUNT);
+        assertThat(result.validationResult().message()).isEqualTo("이체 금액은 0보다 커야 합니다.");
+        then(userPointTable).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("A→B, B→A 이체가 동시에 이루어져도 교착 상태 없이 처리된다.")
+    void testConcurrentBidirectionalTransfer() throws Exception {
+        long userA = 1L;
+        long userB = 2L;
+        long initialPoints = 100L;
+        long amountToUse = 10L;
+        long amountToTransfer = 10L;
+
+        when(userPointTable.selectById(userA)).thenReturn(new UserPoint(userA, initialPoints, System.currentTimeMillis()));
+        when(userPointTable.selectById(userB)).thenReturn(new UserPoint(userB, initialPoints, System.currentTimeMillis()));
+        when(pointValidator.validate(any(UserPoint.class), anyLong(), any(TransactionType.class))).thenReturn(PointValidationResult.VALID);
+
+        // A, B 의 Lock 을 각각 붙잡고 있을 사용 요청 스레드
+        Set<Thread> holderThreads = ConcurrentHashMap.newKeySet();
+        CountDownLatch holdersLocked = new CountDownLatch(2);
+        CountDownLatch releaseHolders = new CountDownLatch(1);
+
+        // 사용자별 마지막으로 기록된 포인트, 기록은 사용자 Lock 안에서 이루어지므로 마지막 값이 최종 잔액이다.
+        Map<Long, Long> lastWrittenPoints = new ConcurrentHashMap<>();
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation -> {
+            long updatedUserId = invocation.getArgument(0);
+            long updatedPoints = invocation.getArgument(1);
+            if (holderThreads.contains(Thread.currentThread())) {
+                // 사용자 Lock 을 보유한 채로 이체 요청이 대기열에 들어올 때까지 기다린다.
+                holdersLocked.countDown();
+                releaseHolders.await();
+            }
+            lastWrittenPoints.put(updatedUserId, updatedPoints);
+            return new UserPoint(updatedUserId, updatedPoints, System.currentTimeMillis());
+        });
+
+        ExecutorService holderExecutor = Executors.newFixedThreadPool(2);
+        ExecutorService transferExecutor = Executors.newFixedThreadPool(2);
+
+        for (long userId : new long[]{userA, userB}) {
+            holderExecutor.submit(() -> {
+                holderThreads.add(Thread.currentThread());
+                return pointService.useUserPoint(userId, amountToUse);
+            });
+        }
+        assertThat(holdersLocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 정렬 없이 보내는 사용자의 Lock 부터 잡는다면 A→B 는 A 를, B→A 는 B 를 기다리게 되고,
+        // Lock 이 동시에 풀리면 각자 첫 번째 Lock 을 잡은 채 서로를 기다려 교착 상태가 된다.
+        Future<PointResult> transferAToB = transferExecutor.submit(() -> pointService.transferUserPoint(userA, userB, amountToTransfer));
+        Future<PointResult> transferBToA = transferExecutor.submit(() -> pointService.transferUserPoint(userB, userA, amountToTransfer));
+        TimeUnit.MILLISECONDS.sleep(200);
+        releaseHolders.countDown();
+
+        // 교착 상태라면 제한 시간 내에 완료되지 않는다.
+        assertThat(transferAToB.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+        assertThat(transferBToA.get(5, TimeUnit.SECONDS).isSuccess()).isTrue();
+
+        // 양방향 이체 금액이 같으므로 두 사용자의 포인트는 사용 금액만큼만 줄어야 한다.
+        assertThat(lastWrittenPoints.get(userA)).isEqualTo(initialPoints - amountToUse);
+        assertThat(lastWrittenPoints.get(userB)).isEqualTo(initialPoints - amountToUse);
+        verify(pointHistoryTable, times(2)).insert(anyLong(), eq(amountToTransfer), eq(TransactionType.TRANSFER_OUT), anyLong());
+
+        holderExecutor.shutdown();
+        transferExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 이체와 사용이 동시에 이루어져도 잔액이 음수가 되지 않는다.")
+    void testConcurrentTransferAndUseOnSameUser() throws InterruptedException {
+        long initialPoints = 100L;
+        int repeatCount = 50;
+
+        when(userPointTable.selectById(anyLong())).thenAnswer(invocation -> {
+            long userId = invocation.getArgument(0);
+            return new UserPoint(userId, initialPoints, System.currentTimeMillis());
+        });
+
+        // 사용자별 마지막으로 기록된 포인트, 기록은 사용자 Lock 안에서 이루어지므로 마지막 값이 최종 잔액이다.
+        Map<Long, Long> lastWrittenPoints = new ConcurrentHashMap<>();
+        when(userPointTable.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocation -> {
+            long updatedUserId = invocation.getArgument(0);
+            long updatedPoints = invocation.getArgument(1);
+            lastWrittenPoints.put(updatedUserId, updatedPoints);
+            return new UserPoint(updatedUserId, updatedPoints, System.currentTimeMillis());
+        });
+
+        // 실제 잔액 검사 규칙을 적용
+        PointValidator realValidator = new PointValidator();
+        when(pointValidator.validate(any(UserPoint.class), anyLong(), any(TransactionType.class))).thenAnswer(invocation -> {
+            UserPoint userPoint = invocation.getArgument(0);
+            long amount = invocation.getArgument(1);
+            TransactionType transactionType = invocation.getArgument(2);
+            return realValidator.validate(userPoint, amount, transactionType);
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // 잔액 전체를 이체하는 요청과 사용하는 요청을 동시에 보내며, 둘 중 하나만 성공해야 한다.
+        for (int i = 0; i < repeatCount; i++) {
+            long sourceUserId = i * 2L + 1;
+            long targetUserId = i * 2L + 2;
+            CountDownLatch startLatch = new CountDownLatch(1);
+
+            Future<PointResult> transfer = executorService.submit(() -> {
+                startLatch.await();
+                return pointService.transferUserPoint(sourceUserId, targetUserId, initialPoints);
+            });
+            Future<PointResult> use = executorService.submit(() -> {
+                startLatch.await();
+                return pointService.useUserPoint(sourceUserId, initialPoints);
+            });
+            startLatch.countDown();
+
+            try {
+                boolean transferSucceeded = transfer.get(5, TimeUnit.SECONDS).isSuccess();
+                boolean useSucceeded = use.get(5, TimeUnit.SECONDS).isSuccess();
+
+                assertThat(transferSucceeded ^ useSucceeded).isTrue();
+                assertThat(lastWrittenPoints.get(sourceUserId)).isZero();
+            } catch (ExecutionException | TimeoutException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("포인트가 변경되면 해당 사용자의 버전만 변경된다.")
+    void shouldIncreaseUserVersionWhenPointChanges() {
+        // given
+        long userId = 1L;
+        long otherUserId = 2L;
+        given(userPointTable.selectById(userId)).willReturn(new UserPoint(userId, 100L, System.currentTimeMillis()));
+        given(userPointTable.insertOrUpdate(eq(userId), anyLong())).willReturn(new UserPoint(userId, 150L, System.currentTimeMillis()));
+        given(pointValidator.validate(any(UserPoint.class), anyLong(), any(TransactionType.class))).willReturn(PointValidationResult.VALID);
+        long versionBefore = pointService.getUserVersion(userId);
+        long otherVersionBefore = pointService.getUserVersion(otherUserId);
+
+        // when
+        pointService.chargeUserPoint(userId, 50L);
+
+        // then
+        assertThat(pointService.getUserVersion(userId)).isGreaterThan(versionBefore);
+        assertThat(pointService.getUserVersion(otherUserId)).isEqualTo(otherVersionBefore);
+    }
+
+    @Test
+    @DisplayName("재시작하면 변경되지 않은 사용자의 ETag 도 달라진다.")
+    void shouldReturnDifferentETagAfterRestart() {
+        // given
+        long userId = 1L;
+        PointService beforeRestart = new PointService(userPointTable, pointHistoryTable, pointValidator);
+        PointService afterRestart = new PointService(userPointTable, pointHistoryTable, pointValidator);
+
+        // when, then
+        assertThat(beforeRestart.getUserVersion(userId)).isEqualTo(afterRestart.getUserVersion(userId));
+        assertThat(beforeRestart.getUserETag(userId)).isNotEqualTo(afterRestart.getUserETag(userId));
+    }
+
+    @Test
+    @DisplayName("미리 적재된 사용자는 포인트 충전 시 다시 조회하지 않는다.")
+    void shouldNotSelectUserPointAgainWhenPreloaded() {
+        // given
+        long userId = 1L;
+        given(userPointTable.selectById(userId)).willReturn(new UserPoint(userId, 100L, System.currentTimeMillis()));
+        given(userPointTable.insertOrUpdate(eq(userId), eq(150L))).willReturn(new UserPoint(userId, 150L, System.currentTimeMillis()));
+        given(pointValidator.validate(any(UserPoint.class), anyLong(), any(TransactionType.class))).willReturn(PointValidationResult.VALID);
+
+        // when
+        pointService.preloadUserPoint(userId);
+        pointService.preloadUserPoint(userId);
+        UserPoint result = pointService.chargeUserPoint(userId, 50L).userPoint();
+
+        // then
+        assertThat(result.point()).isEqualTo(150L);
+        then(userPointTable).should(times(1)).selectById(userId);
+    }
+
 }
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+
+@ExtendWith({MockitoExtension.class, OutputCaptureExtension.class})
+public class PointWarmUpRunnerTest {
+
+    @Mock
+    private PointService pointService;
+
+    @Test
+    @DisplayName("미리 적재할 사용자가 없으면 아무것도 적재하지 않는다.")
+    void shouldNotPreloadWhenUserIdsAreEmpty() throws InterruptedException {
+        // given
+        PointWarmUpRunner runner = new PointWarmUpRunner(pointService, new PointWarmUpProperties(List.of(), 4));
+
+        // when
+        runner.run(null);
+
+        // then
+        then(pointService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("설정된 모든 사용자의 포인트를 미리 적재한다.")
+    void shouldPreloadEveryConfiguredUser() throws InterruptedException {
+        // given
+        PointWarmUpRunner runner = new PointWarmUpRunner(pointService, new PointWarmUpProperties(List.of(1L, 2L, 3L), 2));
+
+        // when
+        runner.run(null);
+
+        // then
+        then(pointService).should().preloadUserPoint(1L);
+        then(pointService).should().preloadUserPoint(2L);
+        then(pointService).should().preloadUserPoint(3L);
+    }
+
+    @Test
+    @DisplayName("일부 사용자의 적재에 실패해도 로그를 남기고 나머지 사용자를 적재한다.")
+    void shouldLogAndContinueWhenPreloadFails(CapturedOutput output) throws InterruptedException {
+        // given
+        willThrow(new RuntimeException("조회 실패")).given(pointService).preloadUserPoint(2L);
+        PointWarmUpRunner runner = new PointWarmUpRunner(pointService, new PointWarmUpProperties(List.of(1L, 2L, 3L), 2));
+
+        // when
+        runner.run(null);
+
+        // then
+        then(pointService).should().preloadUserPoint(1L);
+        then(pointService).should().preloadUserPoint(3L);
+        assertThat(output).contains("포인트 미리 적재에 실패했습니다. userId=2");
+        assertThat(output).contains("포인트 미리 적재를 완료했습니다. 성공=2, 실패=1");
+    }
+}